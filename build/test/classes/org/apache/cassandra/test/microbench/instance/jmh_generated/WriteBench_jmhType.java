@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.instance.jmh_generated;
+public class WriteBench_jmhType extends WriteBench_jmhType_B3 {
+}
+
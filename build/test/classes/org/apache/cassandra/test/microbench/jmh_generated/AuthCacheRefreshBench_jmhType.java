@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class AuthCacheRefreshBench_jmhType extends AuthCacheRefreshBench_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class BatchlogBench_Backlog_jmhType extends BatchlogBench_Backlog_jmhType_B3 {
+}
+
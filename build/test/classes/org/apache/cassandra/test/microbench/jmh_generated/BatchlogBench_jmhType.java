@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class BatchlogBench_jmhType extends BatchlogBench_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class ChunkOffsetsBench_jmhType extends ChunkOffsetsBench_jmhType_B3 {
+}
+
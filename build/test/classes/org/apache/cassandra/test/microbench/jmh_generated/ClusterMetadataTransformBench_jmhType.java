@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class ClusterMetadataTransformBench_jmhType extends ClusterMetadataTransformBench_jmhType_B3 {
+}
+
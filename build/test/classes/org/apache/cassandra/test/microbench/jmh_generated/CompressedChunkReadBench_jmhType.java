@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class CompressedChunkReadBench_jmhType extends CompressedChunkReadBench_jmhType_B3 {
+}
+
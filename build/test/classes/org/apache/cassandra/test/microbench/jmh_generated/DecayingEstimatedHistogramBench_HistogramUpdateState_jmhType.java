@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class DecayingEstimatedHistogramBench_HistogramUpdateState_jmhType extends DecayingEstimatedHistogramBench_HistogramUpdateState_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class DecayingEstimatedHistogramBench_jmhType extends DecayingEstimatedHistogramBench_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class LearnedPartitionIndexBench_jmhType extends LearnedPartitionIndexBench_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class PackedRowDeserializationBench_jmhType extends PackedRowDeserializationBench_jmhType_B3 {
+}
+
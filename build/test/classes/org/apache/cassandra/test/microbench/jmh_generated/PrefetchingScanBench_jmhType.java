@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class PrefetchingScanBench_jmhType extends PrefetchingScanBench_jmhType_B3 {
+}
+
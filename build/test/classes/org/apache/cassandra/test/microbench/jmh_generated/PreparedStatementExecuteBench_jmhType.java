@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class PreparedStatementExecuteBench_jmhType extends PreparedStatementExecuteBench_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class ReplicaGroupsBench_jmhType extends ReplicaGroupsBench_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class ReplicaLayoutBench_jmhType extends ReplicaLayoutBench_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class RowFilterBench_jmhType extends RowFilterBench_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class SnapshotListingBench_jmhType extends SnapshotListingBench_jmhType_B3 {
+}
+
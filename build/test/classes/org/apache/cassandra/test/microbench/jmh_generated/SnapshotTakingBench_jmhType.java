@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class SnapshotTakingBench_jmhType extends SnapshotTakingBench_jmhType_B3 {
+}
+
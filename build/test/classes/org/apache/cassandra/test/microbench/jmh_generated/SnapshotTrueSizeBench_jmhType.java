@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class SnapshotTrueSizeBench_jmhType extends SnapshotTrueSizeBench_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class ZeroCopyStreamingBench_BenchmarkState_jmhType extends ZeroCopyStreamingBench_BenchmarkState_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class ZstdDictionaryCompressionBench_ThreadState_jmhType extends ZstdDictionaryCompressionBench_ThreadState_jmhType_B3 {
+}
+